@@ -0,0 +1,136 @@
+package am.adrianyepremyan.flowgamesolver.helper;
+
+import am.adrianyepremyan.flowgamesolver.map.GameMap;
+import am.adrianyepremyan.flowgamesolver.map.domain.Flow;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// Feasibility checks on boards of up to 16x16 cells, packed row by row into longs.
+// Boards up to 8x8 use rows of 8 bits (one long), larger ones use rows of 16 bits (up to four longs).
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BitBoard {
+
+    private static final int MAX_SIDE = 16;
+    private static final long FIRST_COLUMN_8 = 0x0101010101010101L;
+    private static final long FIRST_COLUMN_16 = 0x0001000100010001L;
+
+    public static boolean supports(Flow[][] matrix) {
+        return matrix.length > 0 && matrix.length <= MAX_SIDE && matrix[0].length <= MAX_SIDE;
+    }
+
+    public static boolean gameHasNoSolution(GameMap map, Flow[][] matrix) {
+        final int height = matrix.length;
+        final int width = matrix[0].length;
+        final int stride = width <= 8 && height <= 8 ? 8 : 16;
+        final int words = (height * stride + 63) >>> 6;
+        final long firstColumn = stride == 8 ? FIRST_COLUMN_8 : FIRST_COLUMN_16;
+        final long lastColumn = firstColumn << (stride - 1);
+
+        final var initialFlowList = map.getInitialFlowList();
+        final var free = new long[words];
+        final var colorMasks = new long[initialFlowList.size()][words];
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                final int bit = y * stride + x;
+                final long mask = 1L << (bit & 63);
+                final var cell = matrix[y][x];
+                if (cell == null) {
+                    free[bit >>> 6] |= mask;
+                } else {
+                    // Cells of colors which are not being solved are left out, so they only block the others
+                    final int colorIndex = indexOfColor(initialFlowList, cell.color());
+                    if (colorIndex >= 0) {
+                        colorMasks[colorIndex][bit >>> 6] |= mask;
+                    }
+                }
+            }
+        }
+
+        final var passable = new long[words];
+        final var reach = new long[words];
+        final var neighbours = new long[words];
+        for (int i = 0; i < initialFlowList.size(); ++i) {
+            final var start = initialFlowList.get(i).first();
+            final var end = initialFlowList.get(i).second();
+            final int startBit = start.y() * stride + start.x();
+            final int endBit = end.y() * stride + end.x();
+            for (int w = 0; w < words; ++w) {
+                passable[w] = free[w] | colorMasks[i][w];
+            }
+
+            // This is a quick check if adjacent cells are blocked or not
+            if (isCellBlocked(startBit, passable, reach, neighbours, stride, firstColumn, lastColumn)
+                || isCellBlocked(endBit, passable, reach, neighbours, stride, firstColumn, lastColumn)) {
+                return true;
+            }
+
+            // This is a more thorough check if there is still a path between two flows
+            setSingleBit(reach, startBit);
+            boolean grown = true;
+            while (grown && (reach[endBit >>> 6] & (1L << (endBit & 63))) == 0) {
+                shiftToNeighbours(reach, neighbours, stride, firstColumn, lastColumn);
+                grown = false;
+                for (int w = 0; w < words; ++w) {
+                    final long next = (reach[w] | neighbours[w]) & passable[w];
+                    grown |= next != reach[w];
+                    reach[w] = next;
+                }
+            }
+            if ((reach[endBit >>> 6] & (1L << (endBit & 63))) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCellBlocked(int bit,
+                                         long[] passable,
+                                         long[] cell,
+                                         long[] neighbours,
+                                         int stride,
+                                         long firstColumn,
+                                         long lastColumn) {
+        setSingleBit(cell, bit);
+        shiftToNeighbours(cell, neighbours, stride, firstColumn, lastColumn);
+        for (int w = 0; w < passable.length; ++w) {
+            if ((neighbours[w] & passable[w]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void shiftToNeighbours(long[] cells,
+                                          long[] neighbours,
+                                          int stride,
+                                          long firstColumn,
+                                          long lastColumn) {
+        final int words = cells.length;
+        for (int w = 0; w < words; ++w) {
+            // Rows crossing the word boundary are carried over from the adjacent words
+            final long up = (cells[w] >>> stride) | (w + 1 < words ? cells[w + 1] << (64 - stride) : 0);
+            final long down = (cells[w] << stride) | (w > 0 ? cells[w - 1] >>> (64 - stride) : 0);
+            // Bits wrapping around to the other side of the row are masked out
+            final long left = (cells[w] >>> 1) & ~lastColumn;
+            final long right = (cells[w] << 1) & ~firstColumn;
+            neighbours[w] = up | down | left | right;
+        }
+    }
+
+    private static void setSingleBit(long[] cells, int bit) {
+        for (int w = 0; w < cells.length; ++w) {
+            cells[w] = 0;
+        }
+        cells[bit >>> 6] = 1L << (bit & 63);
+    }
+
+    private static int indexOfColor(List<Pair<Flow, Flow>> initialFlowList, String color) {
+        for (int i = 0; i < initialFlowList.size(); ++i) {
+            if (initialFlowList.get(i).first().color().equals(color)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
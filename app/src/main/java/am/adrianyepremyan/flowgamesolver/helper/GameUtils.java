@@ -75,6 +75,11 @@ public class GameUtils {
     }
 
     public static boolean gameHasNoSolution(GameMap map, Flow[][] matrix) {
+        // Boards up to 16x16 fit into a few longs, so a bitboard flood fill is used for them
+        if (BitBoard.supports(matrix)) {
+            return BitBoard.gameHasNoSolution(map, matrix);
+        }
+
         for (final var initialFlowPair : map.getInitialFlowList()) {
             // This is a quick check if adjacent cells are blocked or not
             if (isCellBlocked(initialFlowPair.first(), matrix) || isCellBlocked(initialFlowPair.second(), matrix)) {
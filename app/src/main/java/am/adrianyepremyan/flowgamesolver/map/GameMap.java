@@ -7,6 +7,7 @@ import am.adrianyepremyan.flowgamesolver.map.printer.GameMapPrinter;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import lombok.Getter;
 
@@ -22,6 +23,8 @@ public class GameMap {
     }
 
     public void addInitialFlows(String color, Point p1, Point p2) {
+        checkCellIsFree(p1);
+        checkCellIsFree(p2);
         if (!colorFirstLetters.add(color.charAt(0))) {
             throw new RuntimeException("The first letter of the color is already occupied");
         }
@@ -32,7 +35,67 @@ public class GameMap {
         initialFlowList.add(pair);
     }
 
+    public void moveInitialFlow(String color, Point from, Point to) {
+        final int index = indexOfInitialFlows(color);
+        final var pair = initialFlowList.get(index);
+        final boolean movingFirst = pair.first().point().equals(from);
+        if (!movingFirst && !pair.second().point().equals(from)) {
+            throw new RuntimeException("There is no initial flow of the color at the given point");
+        }
+        checkCellIsFree(to);
+
+        matrix[from.y()][from.x()] = null;
+        final var moved = matrix[to.y()][to.x()] = new Flow(to, color, null);
+        // Keep the position of the pair in the list, so the flow order stays the same
+        initialFlowList.set(index, movingFirst ? new Pair<>(moved, pair.second()) : new Pair<>(pair.first(), moved));
+    }
+
+    public void removeInitialFlows(String color) {
+        final var pair = initialFlowList.remove(indexOfInitialFlows(color));
+        matrix[pair.first().y()][pair.first().x()] = null;
+        matrix[pair.second().y()][pair.second().x()] = null;
+        colorFirstLetters.remove(color.charAt(0));
+    }
+
+    public Optional<Pair<Flow, Flow>> findInitialFlows(String color) {
+        return initialFlowList.stream()
+            .filter(pair -> pair.first().color().equals(color))
+            .findFirst();
+    }
+
+    // Places a cell of an already routed flow, which the solver will treat as an obstacle
+    public void addRoutedFlow(Flow flow) {
+        checkCellIsFree(flow.point());
+        matrix[flow.y()][flow.x()] = flow;
+    }
+
+    public int getWidth() {
+        return matrix.length == 0 ? 0 : matrix[0].length;
+    }
+
+    public int getHeight() {
+        return matrix.length;
+    }
+
     public void print(GameMapPrinter printer) {
         printer.print(this);
     }
+
+    private int indexOfInitialFlows(String color) {
+        for (int i = 0; i < initialFlowList.size(); ++i) {
+            if (initialFlowList.get(i).first().color().equals(color)) {
+                return i;
+            }
+        }
+        throw new RuntimeException("There is no initial flow with the given color");
+    }
+
+    private void checkCellIsFree(Point point) {
+        if (point.y() < 0 || point.y() >= matrix.length || point.x() < 0 || point.x() >= matrix[point.y()].length) {
+            throw new RuntimeException("The point is out of the map");
+        }
+        if (matrix[point.y()][point.x()] != null) {
+            throw new RuntimeException("The cell is already occupied");
+        }
+    }
 }
@@ -13,6 +13,8 @@ import am.adrianyepremyan.flowgamesolver.helper.Pair;
 import am.adrianyepremyan.flowgamesolver.map.GameMap;
 import am.adrianyepremyan.flowgamesolver.map.domain.Flow;
 import am.adrianyepremyan.flowgamesolver.map.domain.FlowDirection;
+import am.adrianyepremyan.flowgamesolver.solver.trace.SearchOutcome;
+import am.adrianyepremyan.flowgamesolver.solver.trace.SearchTracer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -20,6 +22,16 @@ import java.util.stream.Stream;
 
 public class SingleThreadedSolution implements Solution {
 
+    private final SearchTracer tracer;
+
+    public SingleThreadedSolution() {
+        this(SearchTracer.NONE);
+    }
+
+    public SingleThreadedSolution(SearchTracer tracer) {
+        this.tracer = tracer;
+    }
+
     public Flow[][] apply(GameMap map) {
         final var matrix = map.getMatrix();
         final var initialFlowList = new ArrayList<>(map.getInitialFlowList());
@@ -28,7 +40,7 @@ public class SingleThreadedSolution implements Solution {
         final int startX = initialFlow.first().x();
         final int startY = initialFlow.first().y();
 
-        final var solvedMatrix = solveRecursively(map, matrix, matrix[startY][startX], initialFlowList, 0);
+        final var solvedMatrix = solveRecursively(map, matrix, matrix[startY][startX], initialFlowList, 0, 0);
 
         if (solvedMatrix == null) {
             throw new RuntimeException("Game has no solution!");
@@ -41,15 +53,20 @@ public class SingleThreadedSolution implements Solution {
                                       Flow[][] matrix,
                                       Flow flow,
                                       List<Pair<Flow, Flow>> initialFlowList,
-                                      int initialFlowIndex) {
+                                      int initialFlowIndex,
+                                      int depth) {
         final int startX = flow.point().x();
         final int startY = flow.point().y();
 
         return Stream.of(
-                solveWithDirection(map, matrix, flow, initialFlowList, initialFlowIndex, startX, startY - 1, UP),
-                solveWithDirection(map, matrix, flow, initialFlowList, initialFlowIndex, startX, startY + 1, DOWN),
-                solveWithDirection(map, matrix, flow, initialFlowList, initialFlowIndex, startX - 1, startY, LEFT),
-                solveWithDirection(map, matrix, flow, initialFlowList, initialFlowIndex, startX + 1, startY, RIGHT)
+                solveWithDirection(map, matrix, flow, initialFlowList, initialFlowIndex,
+                    startX, startY - 1, UP, depth),
+                solveWithDirection(map, matrix, flow, initialFlowList, initialFlowIndex,
+                    startX, startY + 1, DOWN, depth),
+                solveWithDirection(map, matrix, flow, initialFlowList, initialFlowIndex,
+                    startX - 1, startY, LEFT, depth),
+                solveWithDirection(map, matrix, flow, initialFlowList, initialFlowIndex,
+                    startX + 1, startY, RIGHT, depth)
             )
             .filter(Objects::nonNull)
             .findFirst()
@@ -62,7 +79,8 @@ public class SingleThreadedSolution implements Solution {
                                         List<Pair<Flow, Flow>> initialFlowList,
                                         int initialFlowIndex,
                                         int x, int y,
-                                        FlowDirection directionToGo) {
+                                        FlowDirection directionToGo,
+                                        int depth) {
         final var initialFlow = initialFlowList.get(initialFlowIndex);
 
         // If the end of the initial flow is reached
@@ -71,6 +89,7 @@ public class SingleThreadedSolution implements Solution {
             // If the end of all initial flows is reached
             // The game is solved
             if (initialFlowIndex == initialFlowList.size() - 1) {
+                tracer.onMove(initialFlowIndex, x, y, directionToGo, depth, SearchOutcome.SOLVED);
                 return matrix;
             }
 
@@ -78,23 +97,29 @@ public class SingleThreadedSolution implements Solution {
             final var nextFlow = matrix[nextInitialFlow.first().y()][nextInitialFlow.first().x()];
 
             // Solve recursively for next colored flow
-            return solveRecursively(map, matrix, nextFlow, initialFlowList, initialFlowIndex + 1);
+            tracer.onMove(initialFlowIndex, x, y, directionToGo, depth, SearchOutcome.FLOW_COMPLETED);
+            return solveRecursively(map, matrix, nextFlow, initialFlowList, initialFlowIndex + 1, depth + 1);
         }
 
-        if ((currentFlow.direction() == null || directionToGo != currentFlow.direction().getOpposite())
-            && y >= 0 && y < matrix.length
-            && x >= 0 && x < matrix[y].length) {
+        if (currentFlow.direction() != null && directionToGo == currentFlow.direction().getOpposite()) {
+            tracer.onMove(initialFlowIndex, x, y, directionToGo, depth, SearchOutcome.REVERSED);
+        } else if (y < 0 || y >= matrix.length || x < 0 || x >= matrix[y].length) {
+            tracer.onMove(initialFlowIndex, x, y, directionToGo, depth, SearchOutcome.OUT_OF_MAP);
+        } else {
             // Insert the new flow with the provided direction
             final var tempMatrix = copyMatrix(matrix);
             final var insertedFlow = insertFlowWithDirection(tempMatrix, x, y, currentFlow.color(), directionToGo);
             if (insertedFlow != null) {
                 // Stop to backtrack if after flow insertion the game can't have any solution
                 if (gameHasNoSolution(map, tempMatrix)) {
+                    tracer.onMove(initialFlowIndex, x, y, directionToGo, depth, SearchOutcome.NO_SOLUTION);
                     return null;
                 }
                 // Solve recursively with the new flow
-                return solveRecursively(map, tempMatrix, insertedFlow, initialFlowList, initialFlowIndex);
+                tracer.onMove(initialFlowIndex, x, y, directionToGo, depth, SearchOutcome.EXPANDED);
+                return solveRecursively(map, tempMatrix, insertedFlow, initialFlowList, initialFlowIndex, depth + 1);
             }
+            tracer.onMove(initialFlowIndex, x, y, directionToGo, depth, SearchOutcome.OCCUPIED);
         }
 
         return null;
@@ -0,0 +1,135 @@
+package am.adrianyepremyan.flowgamesolver.solver;
+
+import am.adrianyepremyan.flowgamesolver.helper.Point;
+import am.adrianyepremyan.flowgamesolver.map.GameMap;
+import am.adrianyepremyan.flowgamesolver.map.domain.Flow;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Getter;
+
+// Keeps the last solution of the map and re-solves it incrementally after edits.
+// The map should be edited only through the session, otherwise the edits are not tracked.
+public class SolverSession {
+
+    private final GameMap map;
+    private final Solution solution;
+    private final Set<String> editedColors = new HashSet<>();
+    private final Set<Point> editedPoints = new HashSet<>();
+    @Getter
+    private Flow[][] lastSolution;
+
+    public SolverSession(GameMap map, Solution solution) {
+        this.map = map;
+        this.solution = solution;
+    }
+
+    public void addInitialFlows(String color, Point p1, Point p2) {
+        map.addInitialFlows(color, p1, p2);
+        editedColors.add(color);
+        editedPoints.add(p1);
+        editedPoints.add(p2);
+    }
+
+    public void moveInitialFlow(String color, Point from, Point to) {
+        map.moveInitialFlow(color, from, to);
+        editedColors.add(color);
+        editedPoints.add(from);
+        editedPoints.add(to);
+    }
+
+    public void removeInitialFlows(String color) {
+        map.findInitialFlows(color).ifPresent(pair -> {
+            editedPoints.add(pair.first().point());
+            editedPoints.add(pair.second().point());
+        });
+        map.removeInitialFlows(color);
+        editedColors.add(color);
+    }
+
+    public Flow[][] solve() {
+        Flow[][] solvedMatrix = null;
+        if (lastSolution != null) {
+            solvedMatrix = repair();
+        }
+        // Fall back to the full search if there is nothing to repair or the repair failed
+        if (solvedMatrix == null) {
+            solvedMatrix = solution.apply(map);
+        }
+
+        lastSolution = solvedMatrix;
+        editedColors.clear();
+        editedPoints.clear();
+        return solvedMatrix;
+    }
+
+    private Flow[][] repair() {
+        // First re-route only the edited colors and the colors whose paths cross the edited cells
+        final var colorsToReroute = new HashSet<>(editedColors);
+        for (final var point : editedPoints) {
+            final var cell = lastSolution[point.y()][point.x()];
+            if (cell != null) {
+                colorsToReroute.add(cell.color());
+            }
+        }
+
+        final var repairedMatrix = reroute(colorsToReroute);
+        if (repairedMatrix != null) {
+            return repairedMatrix;
+        }
+
+        // Then widen the repair area with the colors adjacent to the re-routed ones
+        final var widenedColors = new HashSet<>(colorsToReroute);
+        for (int y = 0; y < lastSolution.length; ++y) {
+            for (int x = 0; x < lastSolution[y].length; ++x) {
+                final var cell = lastSolution[y][x];
+                if ((cell != null && colorsToReroute.contains(cell.color())) || editedPoints.contains(new Point(x, y))) {
+                    addColorOfCell(widenedColors, x, y - 1);
+                    addColorOfCell(widenedColors, x, y + 1);
+                    addColorOfCell(widenedColors, x - 1, y);
+                    addColorOfCell(widenedColors, x + 1, y);
+                }
+            }
+        }
+
+        if (widenedColors.size() == colorsToReroute.size()) {
+            return null;
+        }
+        return reroute(widenedColors);
+    }
+
+    private Flow[][] reroute(Set<String> colors) {
+        // Build a map where the paths of all other colors are fixed and only the given colors have to be solved
+        final var partialMap = new GameMap(map.getWidth(), map.getHeight());
+        for (final var row : lastSolution) {
+            for (final var cell : row) {
+                if (cell != null && !colors.contains(cell.color())) {
+                    partialMap.addRoutedFlow(cell);
+                }
+            }
+        }
+        for (final var initialFlowPair : map.getInitialFlowList()) {
+            final var first = initialFlowPair.first();
+            if (colors.contains(first.color())) {
+                partialMap.addInitialFlows(first.color(), first.point(), initialFlowPair.second().point());
+            }
+        }
+
+        // Nothing to route, e.g. when a color was only removed
+        if (partialMap.getInitialFlowList().isEmpty()) {
+            return partialMap.getMatrix();
+        }
+
+        try {
+            return solution.apply(partialMap);
+        } catch (RuntimeException e) {
+            // The partial map has no solution
+            return null;
+        }
+    }
+
+    private void addColorOfCell(Set<String> colors, int x, int y) {
+        if (y >= 0 && y < lastSolution.length && x >= 0 && x < lastSolution[y].length && lastSolution[y][x] != null) {
+            colors.add(lastSolution[y][x].color());
+        }
+    }
+}
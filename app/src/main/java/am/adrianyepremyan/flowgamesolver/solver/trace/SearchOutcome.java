@@ -0,0 +1,16 @@
+package am.adrianyepremyan.flowgamesolver.solver.trace;
+
+public enum SearchOutcome {
+    // The flow was extended to the cell and the search went deeper
+    EXPANDED,
+    // The end of the current flow was reached, the search continues with the next flow
+    FLOW_COMPLETED,
+    // The end of the last flow was reached
+    SOLVED,
+    // The move would go back to the previous cell
+    REVERSED,
+    OUT_OF_MAP,
+    OCCUPIED,
+    // After inserting the flow the game can't have any solution
+    NO_SOLUTION
+}
@@ -0,0 +1,64 @@
+package am.adrianyepremyan.flowgamesolver.solver.trace;
+
+import am.adrianyepremyan.flowgamesolver.map.domain.FlowDirection;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// A search trace read back from the file written by SearchTraceRecorder.
+// The per-depth node counts are exact, while the events may be sampled.
+public record SearchTrace(int sampleEvery, List<SearchTraceEvent> events, long[] depthCounts) {
+
+    static final int MAGIC = 0x46475354;
+    static final byte VERSION = 1;
+    static final byte EVENT_RECORD = 0;
+    static final byte DEPTH_COUNTS_RECORD = 1;
+
+    public static SearchTrace read(Path file) {
+        try (final var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new RuntimeException("The file is not a search trace: " + file);
+            }
+            final int sampleEvery = in.readInt();
+            final var events = new ArrayList<SearchTraceEvent>();
+            final var directions = FlowDirection.values();
+            final var outcomes = SearchOutcome.values();
+
+            while (true) {
+                final byte recordType;
+                try {
+                    recordType = in.readByte();
+                } catch (EOFException e) {
+                    // The recorder wasn't closed, so there are no depth counts
+                    return new SearchTrace(sampleEvery, events, new long[0]);
+                }
+
+                if (recordType == DEPTH_COUNTS_RECORD) {
+                    final var depthCounts = new long[in.readInt()];
+                    for (int i = 0; i < depthCounts.length; ++i) {
+                        depthCounts[i] = in.readLong();
+                    }
+                    return new SearchTrace(sampleEvery, events, depthCounts);
+                }
+
+                final int index = in.readInt();
+                final int flowIndex = in.readUnsignedByte();
+                final int x = in.readUnsignedByte() - 1;
+                final int y = in.readUnsignedByte() - 1;
+                final int direction = in.readUnsignedByte();
+                final int outcome = in.readUnsignedByte();
+                final int depth = in.readUnsignedShort();
+                final int micros = in.readInt();
+                events.add(new SearchTraceEvent(index, flowIndex, x, y, directions[direction], depth,
+                    outcomes[outcome], micros));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read the search trace: " + file, e);
+        }
+    }
+}
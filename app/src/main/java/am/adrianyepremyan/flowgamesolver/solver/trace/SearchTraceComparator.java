@@ -0,0 +1,88 @@
+package am.adrianyepremyan.flowgamesolver.solver.trace;
+
+import java.nio.file.Path;
+
+// Replays two search traces and reports where the explored trees diverge
+// and how many moves were made at every depth.
+public class SearchTraceComparator {
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Usage: SearchTraceComparator <baseline trace> <candidate trace>");
+            return;
+        }
+        new SearchTraceComparator().compare(SearchTrace.read(Path.of(args[0])), SearchTrace.read(Path.of(args[1])));
+    }
+
+    public void compare(SearchTrace baseline, SearchTrace candidate) {
+        printDivergence(baseline, candidate);
+        printDepthCounts(baseline, candidate);
+    }
+
+    private void printDivergence(SearchTrace baseline, SearchTrace candidate) {
+        if (baseline.sampleEvery() != candidate.sampleEvery()) {
+            System.out.println("Traces are sampled differently (" + baseline.sampleEvery() + " and "
+                + candidate.sampleEvery() + "), the divergence point can't be found");
+            return;
+        }
+
+        final var baselineEvents = baseline.events();
+        final var candidateEvents = candidate.events();
+        final int common = Math.min(baselineEvents.size(), candidateEvents.size());
+        for (int i = 0; i < common; ++i) {
+            final var baselineEvent = baselineEvents.get(i);
+            final var candidateEvent = candidateEvents.get(i);
+            if (!baselineEvent.sameMove(candidateEvent)) {
+                // With sampling, the divergence happened somewhere after the previous recorded event
+                final int sampleEvery = baseline.sampleEvery();
+                System.out.println("Searches diverge at move " + baselineEvent.index()
+                    + (sampleEvery > 1 ? " (or up to " + (sampleEvery - 1) + " moves earlier)" : ""));
+                System.out.println("  baseline:  " + describe(baselineEvent));
+                System.out.println("  candidate: " + describe(candidateEvent));
+                return;
+            }
+        }
+
+        if (baselineEvents.size() == candidateEvents.size()) {
+            System.out.println("Searches are identical in all " + common + " recorded moves");
+        } else {
+            final var longer = baselineEvents.size() > candidateEvents.size() ? "baseline" : "candidate";
+            System.out.println("Searches are identical in the first " + common + " recorded moves, then only the "
+                + longer + " continues");
+        }
+
+        if (common > 0) {
+            System.out.println("  time to reach the last common move: baseline "
+                + baselineEvents.get(common - 1).micros() + " us, candidate "
+                + candidateEvents.get(common - 1).micros() + " us");
+        }
+    }
+
+    private void printDepthCounts(SearchTrace baseline, SearchTrace candidate) {
+        final var baselineCounts = baseline.depthCounts();
+        final var candidateCounts = candidate.depthCounts();
+        final int depths = Math.max(baselineCounts.length, candidateCounts.length);
+        long baselineTotal = 0;
+        long candidateTotal = 0;
+
+        System.out.println("Moves per depth:");
+        System.out.printf("%8s %12s %12s %12s%n", "depth", "baseline", "candidate", "difference");
+        for (int depth = 0; depth < depths; ++depth) {
+            final long baselineCount = depth < baselineCounts.length ? baselineCounts[depth] : 0;
+            final long candidateCount = depth < candidateCounts.length ? candidateCounts[depth] : 0;
+            baselineTotal += baselineCount;
+            candidateTotal += candidateCount;
+            System.out.printf("%8d %12d %12d %+12d%n", depth, baselineCount, candidateCount,
+                candidateCount - baselineCount);
+        }
+        System.out.printf("%8s %12d %12d %+12d%n", "total", baselineTotal, candidateTotal,
+            candidateTotal - baselineTotal);
+    }
+
+    private String describe(SearchTraceEvent event) {
+        return "flow " + event.flowIndex()
+            + " " + event.direction() + " to (" + event.x() + ", " + event.y() + ")"
+            + " at depth " + event.depth()
+            + " -> " + event.outcome();
+    }
+}
@@ -0,0 +1,23 @@
+package am.adrianyepremyan.flowgamesolver.solver.trace;
+
+import am.adrianyepremyan.flowgamesolver.map.domain.FlowDirection;
+
+public record SearchTraceEvent(int index,
+                               int flowIndex,
+                               int x, int y,
+                               FlowDirection direction,
+                               int depth,
+                               SearchOutcome outcome,
+                               int micros) {
+
+    // Two events describe the same move if everything but the timestamp matches
+    public boolean sameMove(SearchTraceEvent other) {
+        return index == other.index
+            && flowIndex == other.flowIndex
+            && x == other.x
+            && y == other.y
+            && direction == other.direction
+            && depth == other.depth
+            && outcome == other.outcome;
+    }
+}
@@ -0,0 +1,92 @@
+package am.adrianyepremyan.flowgamesolver.solver.trace;
+
+import static am.adrianyepremyan.flowgamesolver.solver.trace.SearchTrace.DEPTH_COUNTS_RECORD;
+import static am.adrianyepremyan.flowgamesolver.solver.trace.SearchTrace.EVENT_RECORD;
+import static am.adrianyepremyan.flowgamesolver.solver.trace.SearchTrace.MAGIC;
+import static am.adrianyepremyan.flowgamesolver.solver.trace.SearchTrace.VERSION;
+
+import am.adrianyepremyan.flowgamesolver.map.domain.FlowDirection;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// Writes every n-th move of the search into a compact binary file, up to the given number of events.
+// The number of moves per depth is counted for all moves and written on close.
+// Not thread-safe, so it should be used with a single-threaded search only.
+public class SearchTraceRecorder implements SearchTracer, AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final DataOutputStream out;
+    private final int sampleEvery;
+    private final long maxEvents;
+    private final long startNanos = System.nanoTime();
+    private long[] depthCounts = new long[64];
+    private int moveIndex;
+    private long recordedEvents;
+
+    public SearchTraceRecorder(Path file, int sampleEvery, long maxEvents) {
+        if (sampleEvery < 1) {
+            throw new RuntimeException("Sampling rate must be positive");
+        }
+        this.sampleEvery = sampleEvery;
+        this.maxEvents = maxEvents;
+        try {
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(sampleEvery);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create the search trace: " + file, e);
+        }
+    }
+
+    @Override
+    public void onMove(int flowIndex, int x, int y, FlowDirection direction, int depth, SearchOutcome outcome) {
+        if (depth >= depthCounts.length) {
+            depthCounts = Arrays.copyOf(depthCounts, Math.max(depth + 1, depthCounts.length * 2));
+        }
+        ++depthCounts[depth];
+
+        final int index = moveIndex++;
+        if (index % sampleEvery != 0 || recordedEvents >= maxEvents) {
+            return;
+        }
+        ++recordedEvents;
+
+        try {
+            out.writeByte(EVENT_RECORD);
+            out.writeInt(index);
+            out.writeByte(flowIndex);
+            // Moves out of the map are one cell away from it, so the coordinates are shifted to stay unsigned
+            out.writeByte(x + 1);
+            out.writeByte(y + 1);
+            out.writeByte(direction.ordinal());
+            out.writeByte(outcome.ordinal());
+            out.writeShort(depth);
+            out.writeInt((int) ((System.nanoTime() - startNanos) / 1000));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write the search trace", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try (out) {
+            int depths = depthCounts.length;
+            while (depths > 0 && depthCounts[depths - 1] == 0) {
+                --depths;
+            }
+            out.writeByte(DEPTH_COUNTS_RECORD);
+            out.writeInt(depths);
+            for (int i = 0; i < depths; ++i) {
+                out.writeLong(depthCounts[i]);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write the search trace", e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package am.adrianyepremyan.flowgamesolver.solver.trace;
+
+import am.adrianyepremyan.flowgamesolver.map.domain.FlowDirection;
+
+public interface SearchTracer {
+
+    SearchTracer NONE = (flowIndex, x, y, direction, depth, outcome) -> {
+    };
+
+    void onMove(int flowIndex, int x, int y, FlowDirection direction, int depth, SearchOutcome outcome);
+}